@@ -0,0 +1,77 @@
+package com.example.smartparkingapi.parking.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Slf4j
+public class DataSourceConfig {
+
+    /**
+     * 쓰기용 DataSource (Azure SQL 주 서버, spring.datasource.* 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * 읽기용 DataSource (읽기 복제본)
+     * parking.datasource.replica.jdbc-url 이 설정된 경우에만 생성
+     * - 계정 정보는 미설정 시 주 서버와 동일
+     * - 풀 설정은 spring.datasource.hikari.* 를 먼저 적용한 뒤 parking.datasource.replica.* 로 덮어씀
+     */
+    @Bean
+    @ConditionalOnProperty(name = "parking.datasource.replica.jdbc-url")
+    @ConfigurationProperties("parking.datasource.replica")
+    public HikariDataSource readDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * JPA가 사용하는 라우팅 DataSource
+     * - @Transactional(readOnly = true) → 읽기 복제본
+     * - 그 외 트랜잭션 → 주 서버
+     * 실제 커넥션은 첫 쿼리 시점에 획득하므로 트랜잭션의 readOnly 여부가 반영된 뒤에 대상이 결정됨
+     * 주의: spring.jpa.open-in-view 는 반드시 false 여야 함
+     * (true 이면 요청 시작 시 열린 EntityManager가 트랜잭션 이전에 주 서버 커넥션을 잡고 재사용하므로 모든 조회가 주 서버로 전송됨)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") ObjectProvider<DataSource> readDataSource) {
+        LazyConnectionDataSourceProxy routingDataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+
+        DataSource replica = readDataSource.getIfAvailable();
+        if (replica != null) {
+            routingDataSource.setReadOnlyDataSource(replica);
+            log.info("읽기 복제본 라우팅 활성화 - readOnly 트랜잭션은 복제본으로 전송");
+        } else {
+            log.info("읽기 복제본 미설정 - 모든 쿼리를 주 서버로 전송");
+        }
+
+        return routingDataSource;
+    }
+}
@@ -1,8 +1,8 @@
 package com.example.smartparkingapi.parking.controller;
 
+import com.example.smartparkingapi.parking.dto.ParkingRecordSummary;
 import com.example.smartparkingapi.parking.dto.ParkingStatusResponse;
 import com.example.smartparkingapi.parking.dto.VehicleEntryResponse;
-import com.example.smartparkingapi.parking.entity.ParkingRecord;
 import com.example.smartparkingapi.parking.service.ParkingService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -102,11 +102,11 @@ public class ParkingController {
      */
     @Operation(summary = "출입 기록 조회", description = "차량 출입 기록 조회 (번호판 필터 가능)")
     @GetMapping("/parking/history")
-    public ResponseEntity<List<ParkingRecord>> getParkingHistory(
+    public ResponseEntity<List<ParkingRecordSummary>> getParkingHistory(
             @RequestParam(value = "licensePlate", required = false) String licensePlate) {
 
         log.info("출입 기록 조회 요청 - 번호판: {}", licensePlate);
-        List<ParkingRecord> records = parkingService.getParkingHistory(licensePlate);
+        List<ParkingRecordSummary> records = parkingService.getParkingHistory(licensePlate);
         return ResponseEntity.ok(records);
     }
 
@@ -115,9 +115,9 @@ public class ParkingController {
      */
     @Operation(summary = "현재 주차 중인 차량", description = "현재 주차장에 있는 차량 목록")
     @GetMapping("/parking/current")
-    public ResponseEntity<List<ParkingRecord>> getCurrentlyParkedVehicles() {
+    public ResponseEntity<List<ParkingRecordSummary>> getCurrentlyParkedVehicles() {
         log.info("현재 주차 중인 차량 조회 요청");
-        List<ParkingRecord> records = parkingService.getCurrentlyParkedVehicles();
+        List<ParkingRecordSummary> records = parkingService.getCurrentlyParkedVehicles();
         return ResponseEntity.ok(records);
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.smartparkingapi.parking.dto;
+
+import com.example.smartparkingapi.parking.entity.ParkingRecord.ParkingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 API용 주차 기록 프로젝션
+ * 컬럼은 엔티티와 동일하지만 관리 엔티티가 아닌 값 객체로 반환하므로 영속성 컨텍스트/변경 감지 비용이 없음
+ */
+public record ParkingRecordSummary(
+        Long id,
+        String licensePlate,        // 차량 번호판
+        LocalDateTime entryTime,    // 입차 시간
+        LocalDateTime exitTime,     // 출차 시간
+        String imageUrl,            // 저장된 이미지 URL
+        Integer parkingSpace,       // 주차 위치
+        ParkingStatus status        // 주차 상태
+) {
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -20,4 +21,5 @@ public class VehicleEntryResponse {
     private LocalDateTime entryTime;
     private LocalDateTime exitTime;
     private Long recordId;
+    private List<String> candidates;  // 번호판 근사 검색 후보 (출차 시 모호한 경우)
 }
\ No newline at end of file
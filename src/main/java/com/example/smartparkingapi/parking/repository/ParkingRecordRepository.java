@@ -1,10 +1,14 @@
 package com.example.smartparkingapi.parking.repository;
 
+import com.example.smartparkingapi.parking.dto.ParkingRecordSummary;
 import com.example.smartparkingapi.parking.entity.ParkingRecord;
 import com.example.smartparkingapi.parking.entity.ParkingRecord.ParkingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,14 +16,29 @@ import java.util.Optional;
 public interface ParkingRecordRepository extends JpaRepository<ParkingRecord, Long> {
 
     // 현재 주차 중인 차량 조회
-    List<ParkingRecord> findByStatus(ParkingStatus status);
+    List<ParkingRecordSummary> findByStatus(ParkingStatus status);
 
     // 번호판으로 주차 중인 차량 찾기
     Optional<ParkingRecord> findByLicensePlateAndStatus(String licensePlate, ParkingStatus status);
 
+    // 상태별 번호판 목록 (번호판 인덱스 구성용)
+    @Query("select p.licensePlate from ParkingRecord p where p.status = :status")
+    List<String> findLicensePlatesByStatus(@Param("status") ParkingStatus status);
+
     // 현재 주차 중인 차량 수
     long countByStatus(ParkingStatus status);
 
     // 특정 번호판의 모든 기록 조회
-    List<ParkingRecord> findByLicensePlateOrderByEntryTimeDesc(String licensePlate);
+    List<ParkingRecordSummary> findByLicensePlateOrderByEntryTimeDesc(String licensePlate);
+
+    // 상태별 이미지 URL 목록 (Blob 보존 정리용)
+    @Query("select p.imageUrl from ParkingRecord p where p.status = :status and p.imageUrl is not null")
+    List<String> findImageUrlsByStatus(@Param("status") ParkingStatus status);
+
+    // 특정 시각 이후 입차 기록의 이미지 URL 목록 (Blob 보존 정리용)
+    @Query("select p.imageUrl from ParkingRecord p where p.entryTime >= :since and p.imageUrl is not null")
+    List<String> findImageUrlsByEntryTimeAfter(@Param("since") LocalDateTime since);
+
+    // 전체 기록 조회 (프로젝션)
+    List<ParkingRecordSummary> findAllProjectedBy();
 }
\ No newline at end of file
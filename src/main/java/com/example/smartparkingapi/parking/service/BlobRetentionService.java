@@ -0,0 +1,164 @@
+package com.example.smartparkingapi.parking.service;
+
+import com.azure.storage.blob.models.BlobItem;
+import com.example.smartparkingapi.parking.entity.ParkingRecord.ParkingStatus;
+import com.example.smartparkingapi.parking.repository.ParkingRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "parking.blob-retention.enabled", havingValue = "true")
+public class BlobRetentionService { // CCTV 이미지 보존 기간 관리 (백그라운드 정리)
+
+    private final BlobStorageService blobStorageService;
+    private final ParkingRecordRepository parkingRecordRepository;
+
+    @Value("${parking.blob-retention.dry-run}")
+    private boolean dryRun;
+
+    @Value("${parking.blob-retention.retention-days}")
+    private long retentionDays;
+
+    @Value("${parking.blob-retention.orphan-grace-hours}")
+    private long orphanGraceHours;
+
+    @Value("${parking.blob-retention.max-batches-per-second}")
+    private double maxBatchesPerSecond;
+
+    // dry-run 시 INFO 로그에 출력할 예시 Blob 이름 수
+    private static final int DRY_RUN_SAMPLE_SIZE = 5;
+
+    private long lastBatchAt;
+
+    /**
+     * 보존 정리 실행
+     * 1. 주차 중인 차량 이미지와 보존 기간 내 기록이 참조하는 이미지를 Blob 이름으로 조회
+     * 2. 컨테이너 이미지를 순회하며 삭제 대상 선별
+     * 3. Blob Batch API로 256개씩 일괄 삭제 (초당 요청 수 제한)
+     */
+    @Scheduled(initialDelayString = "${parking.blob-retention.interval-ms}",
+            fixedDelayString = "${parking.blob-retention.interval-ms}")
+    public void sweep() {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime retentionCutoff = now.minusDays(retentionDays);
+        OffsetDateTime orphanCutoff = now.minusHours(orphanGraceHours);
+
+        log.info("이미지 보존 정리 시작 - 보존 기준: {}, 미참조 기준: {}, dry-run: {}",
+                retentionCutoff, orphanCutoff, dryRun);
+
+        int scanned = 0;
+        int deleted = 0;
+        List<String> targets = new ArrayList<>(BlobStorageService.MAX_BATCH_SIZE);
+
+        try {
+            Set<String> parked = toBlobNames(parkingRecordRepository.findImageUrlsByStatus(ParkingStatus.PARKED));
+
+            // 보존 기간 내 이미지는 업로드 직후 저장된 입차 기록만 참조할 수 있음 (서버 간 시계 오차 대비 1일 여유)
+            LocalDateTime referencedSince = retentionCutoff.minusDays(1)
+                    .atZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+            Set<String> referenced = toBlobNames(parkingRecordRepository.findImageUrlsByEntryTimeAfter(referencedSince));
+
+            for (BlobItem blob : blobStorageService.listImages()) {
+                scanned++;
+                String blobName = blob.getName();
+                boolean delete = shouldDelete(blob.getProperties().getLastModified(),
+                        referenced.contains(blobName), parked.contains(blobName),
+                        retentionCutoff, orphanCutoff);
+
+                if (delete) {
+                    targets.add(blobName);
+                    if (targets.size() == BlobStorageService.MAX_BATCH_SIZE) {
+                        deleted += delete(targets);
+                        targets.clear();
+                    }
+                }
+            }
+            deleted += delete(targets);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("이미지 보존 정리 중단됨");
+        } catch (RuntimeException e) {
+            log.error("이미지 보존 정리 실패", e);
+        }
+
+        log.info("이미지 보존 정리 완료 - 조회: {}, {}: {}", scanned, dryRun ? "삭제 예정" : "삭제", deleted);
+    }
+
+    /**
+     * 이미지 삭제 여부 판단
+     * - 주차 중인 차량 이미지 → 항상 보존
+     * - 유예 기간 이내(업로드 직후) 이미지 → 보존
+     * - 보존 기간 경과 이미지 → 삭제
+     * - 어떤 기록에서도 참조되지 않는 이미지 → 삭제
+     */
+    static boolean shouldDelete(OffsetDateTime lastModified, boolean referenced, boolean parked,
+                                OffsetDateTime retentionCutoff, OffsetDateTime orphanCutoff) {
+        if (parked) {
+            return false;
+        }
+        if (lastModified == null || !lastModified.isBefore(orphanCutoff)) {
+            return false;
+        }
+        if (lastModified.isBefore(retentionCutoff)) {
+            return true;
+        }
+        return !referenced;
+    }
+
+    /**
+     * 한 묶음(최대 256개) 삭제, dry-run 이면 로그만 출력
+     */
+    private int delete(List<String> blobNames) throws InterruptedException {
+        if (blobNames.isEmpty()) {
+            return 0;
+        }
+        if (dryRun) {
+            // 전체 목록은 DEBUG 로만 출력 (정리되지 않은 컨테이너는 대상이 수십만 개일 수 있음)
+            log.info("[dry-run] 삭제 대상 이미지 {}개 (예: {})", blobNames.size(),
+                    blobNames.subList(0, Math.min(DRY_RUN_SAMPLE_SIZE, blobNames.size())));
+            log.debug("[dry-run] 삭제 대상 이미지 전체: {}", blobNames);
+            return blobNames.size();
+        }
+
+        throttle();
+        return blobStorageService.deleteImages(List.copyOf(blobNames));
+    }
+
+    /**
+     * 배치 요청 간격 제한 (초당 max-batches-per-second 회, 0 이하이면 제한 없음)
+     */
+    private void throttle() throws InterruptedException {
+        if (maxBatchesPerSecond <= 0) {
+            return;
+        }
+        long minIntervalMillis = (long) (1000 / maxBatchesPerSecond);
+        long waitMillis = lastBatchAt + minIntervalMillis - System.currentTimeMillis();
+        if (waitMillis > 0) {
+            Thread.sleep(waitMillis);
+        }
+        lastBatchAt = System.currentTimeMillis();
+    }
+
+    private static Set<String> toBlobNames(List<String> imageUrls) {
+        Set<String> blobNames = new HashSet<>(imageUrls.size());
+        for (String imageUrl : imageUrls) {
+            blobNames.add(BlobStorageService.extractBlobName(imageUrl));
+        }
+        return blobNames;
+    }
+}
@@ -1,9 +1,17 @@
 package com.example.smartparkingapi.parking.service;
 
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.BlobUrlParts;
+import com.azure.storage.blob.batch.BlobBatch;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.ListBlobsOptions;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +19,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -23,8 +33,13 @@ public class BlobStorageService { //CCTV 이미지 → Azure Blob Storage 업로
     @Value("${azure.storage.container-name}")
     private String containerName;
 
+    // Blob Batch API 요청당 최대 작업 수
+    public static final int MAX_BATCH_SIZE = 256;
+
     private BlobContainerClient containerClient; // Azure Blob Storage의 컨테이너(폴더)를 다루는 클라이언트
 
+    private BlobBatchClient batchClient; // 여러 Blob 삭제를 한 번의 요청으로 처리하는 클라이언트
+
     /**
      1. Azure와 연결 (connectionString 사용)
      2. cctv-images 컨테이너 찾기
@@ -37,6 +52,7 @@ public class BlobStorageService { //CCTV 이미지 → Azure Blob Storage 업로
                 .buildClient();
 
         containerClient = blobServiceClient.getBlobContainerClient(containerName);
+        batchClient = new BlobBatchClientBuilder(blobServiceClient).buildClient();
 
         // 컨테이너 없으면 생성
         if (!containerClient.exists()) {
@@ -71,12 +87,62 @@ public class BlobStorageService { //CCTV 이미지 → Azure Blob Storage 업로
      * Blob URL로 이미지 삭제
      */
     public void deleteImage(String blobUrl) {
-        String blobName = blobUrl.substring(blobUrl.lastIndexOf("/") + 1);
+        String blobName = extractBlobName(blobUrl);
         BlobClient blobClient = containerClient.getBlobClient(blobName);
 
-        if (blobClient.exists()) {
-            blobClient.delete();
+        if (blobClient.deleteIfExists()) {
             log.info("이미지 삭제 완료: {}", blobName);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 컨테이너의 모든 이미지 목록 (페이지 단위로 지연 조회)
+     */
+    public Iterable<BlobItem> listImages() {
+        return containerClient.listBlobs(new ListBlobsOptions().setMaxResultsPerPage(MAX_BATCH_SIZE), null);
+    }
+
+    /**
+     * Blob Batch API로 여러 이미지를 한 번의 요청으로 삭제
+     * @param blobNames 삭제할 Blob 이름 (최대 256개)
+     * @return 삭제된 이미지 수 (이미 없는 이미지 포함)
+     */
+    public int deleteImages(List<String> blobNames) {
+        if (blobNames.isEmpty()) {
+            return 0;
+        }
+        if (blobNames.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 삭제 가능한 이미지는 최대 " + MAX_BATCH_SIZE + "개입니다: " + blobNames.size());
+        }
+
+        BlobBatch batch = batchClient.getBlobBatch();
+        List<Response<Void>> responses = new ArrayList<>(blobNames.size());
+        for (String blobName : blobNames) {
+            responses.add(batch.deleteBlob(containerName, blobName));
+        }
+
+        // 개별 실패는 예외 대신 응답 코드로 확인
+        batchClient.submitBatchWithResponse(batch, false, null, Context.NONE);
+
+        int deleted = 0;
+        for (int i = 0; i < responses.size(); i++) {
+            int statusCode = responses.get(i).getStatusCode();
+            if (statusCode == 202 || statusCode == 404) {
+                deleted++;
+            } else {
+                log.warn("이미지 삭제 실패 - Blob: {}, 상태 코드: {}", blobNames.get(i), statusCode);
+            }
+        }
+        log.info("이미지 일괄 삭제 완료 - 요청: {}, 삭제: {}", blobNames.size(), deleted);
+        return deleted;
+    }
+
+    /**
+     * 이미지 URL에서 Blob 이름 추출
+     * 저장된 URL의 호스트(커스텀 도메인, http/https, Azurite 등)와 무관하게 비교하기 위해 사용
+     * URL 인코딩(공백, 한글 등)을 해제하고 가상 디렉터리 경로("a/b.jpg")까지 포함한 전체 이름을 반환
+     */
+    public static String extractBlobName(String blobUrl) {
+        return BlobUrlParts.parse(blobUrl).getBlobName();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.smartparkingapi.parking.service;
+
+import com.example.smartparkingapi.parking.entity.ParkingRecord.ParkingStatus;
+import com.example.smartparkingapi.parking.repository.ParkingRecordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LicensePlateIndexService { // 주차 중인 번호판 근사 검색 인덱스 (OCR 오인식 대응)
+
+    private final ParkingRecordRepository parkingRecordRepository;
+
+    @Value("${parking.plate-index.max-distance}")
+    private int maxDistance;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private PlateBkTree tree = new PlateBkTree();
+
+    // 재구성 중 반영된 입/출차 기록 (새 트리에 다시 적용, 재구성 중이 아니면 null)
+    private List<PlateUpdate> pendingUpdates;
+
+    private record PlateUpdate(String licensePlate, boolean parked) {
+    }
+
+    /**
+     * 근사 검색 결과
+     * @param licensePlate 확정된 번호판 (모호하거나 후보가 없으면 null)
+     * @param candidates 임계값 이내 후보 번호판 (거리 오름차순)
+     */
+    public record PlateMatchResult(String licensePlate, List<String> candidates) {
+
+        public boolean isResolved() {
+            return licensePlate != null;
+        }
+    }
+
+    /**
+     * 시작 시 DB의 주차 중인 번호판으로 인덱스 구성
+     */
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * 인덱스 재구성
+     * - 다른 인스턴스에서 처리된 입/출차 반영
+     * - 출차로 비활성화된 노드 정리
+     * DB 조회 중 커밋된 입/출차는 새 트리에 다시 적용하여 유실되지 않도록 함
+     */
+    @Scheduled(initialDelayString = "${parking.plate-index.refresh-interval-ms}",
+            fixedDelayString = "${parking.plate-index.refresh-interval-ms}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        PlateBkTree newTree = new PlateBkTree();
+        try {
+            parkingRecordRepository.findLicensePlatesByStatus(ParkingStatus.PARKED).forEach(newTree::add);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingUpdates.forEach(update -> apply(newTree, update));
+            pendingUpdates = null;
+            tree = newTree;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("번호판 인덱스 재구성 완료 - 주차 중: {}대", newTree.size());
+    }
+
+    /**
+     * 입차 번호판 추가 (트랜잭션 중이면 커밋 후 반영)
+     */
+    public void add(String licensePlate) {
+        update(new PlateUpdate(licensePlate, true));
+    }
+
+    /**
+     * 출차 번호판 제거 (트랜잭션 중이면 커밋 후 반영)
+     */
+    public void remove(String licensePlate) {
+        update(new PlateUpdate(licensePlate, false));
+    }
+
+    /**
+     * 번호판 근사 검색
+     * 최소 거리 후보가 하나뿐일 때만 확정하고, 동률이면 후보 목록만 반환
+     */
+    public PlateMatchResult findClosest(String licensePlate) {
+        List<PlateBkTree.Match> matches;
+        lock.readLock().lock();
+        try {
+            matches = tree.search(licensePlate, maxDistance);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<String> candidates = matches.stream()
+                .map(PlateBkTree.Match::licensePlate)
+                .toList();
+
+        if (matches.isEmpty()) {
+            return new PlateMatchResult(null, candidates);
+        }
+        boolean ambiguous = matches.size() > 1 && matches.get(1).distance() == matches.get(0).distance();
+        if (ambiguous) {
+            log.info("번호판 근사 검색 모호 - 입력: {}, 후보: {}", licensePlate, candidates);
+            return new PlateMatchResult(null, candidates);
+        }
+
+        log.info("번호판 근사 검색 성공 - 입력: {}, 매칭: {} (거리 {})",
+                licensePlate, matches.get(0).licensePlate(), matches.get(0).distance());
+        return new PlateMatchResult(matches.get(0).licensePlate(), candidates);
+    }
+
+    /**
+     * 롤백된 입/출차가 인덱스에 남지 않도록 커밋 이후에만 반영
+     */
+    private void update(PlateUpdate update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyNow(update);
+                }
+            });
+        } else {
+            applyNow(update);
+        }
+    }
+
+    private void applyNow(PlateUpdate update) {
+        lock.writeLock().lock();
+        try {
+            apply(tree, update);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(PlateBkTree target, PlateUpdate update) {
+        if (update.parked()) {
+            target.add(update.licensePlate());
+        } else {
+            target.remove(update.licensePlate());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.smartparkingapi.parking.service;
 
+import com.example.smartparkingapi.parking.dto.ParkingRecordSummary;
 import com.example.smartparkingapi.parking.dto.ParkingStatusResponse;
 import com.example.smartparkingapi.parking.dto.VehicleEntryResponse;
 import com.example.smartparkingapi.parking.entity.ParkingRecord;
@@ -24,6 +25,7 @@ public class ParkingService {
     private final BlobStorageService blobStorageService;
     private final ComputerVisionService computerVisionService;
     private final RedisService redisService;
+    private final LicensePlateIndexService licensePlateIndexService;
     private final ParkingRecordRepository parkingRecordRepository;
 
     /**
@@ -74,6 +76,7 @@ public class ParkingService {
                 .build();
 
         parkingRecordRepository.save(record);
+        licensePlateIndexService.add(licensePlate);
         log.info("입차 기록 저장 완료 - 번호판: {}, ID: {}", licensePlate, record.getId());
 
         // 5. Redis 캐시 업데이트
@@ -91,32 +94,62 @@ public class ParkingService {
 
     /**
      * 차량 출차 처리
+     * 정확히 일치하는 번호판이 없으면 OCR 오인식을 고려해 근사 검색으로 재시도
      */
     @Transactional
     public VehicleEntryResponse processVehicleExit(String licensePlate) {
+        String inputPlate = licensePlate;
         Optional<ParkingRecord> recordOpt = parkingRecordRepository
                 .findByLicensePlateAndStatus(licensePlate, ParkingStatus.PARKED);
 
         if (recordOpt.isEmpty()) {
-            return VehicleEntryResponse.builder()
-                    .success(false)
-                    .message("주차 중인 차량을 찾을 수 없습니다: " + licensePlate)
-                    .build();
+            LicensePlateIndexService.PlateMatchResult match = licensePlateIndexService.findClosest(licensePlate);
+
+            if (!match.isResolved()) {
+                return VehicleEntryResponse.builder()
+                        .success(false)
+                        .message(match.candidates().isEmpty()
+                                ? "주차 중인 차량을 찾을 수 없습니다: " + licensePlate
+                                : "유사한 번호판이 여러 개입니다: " + licensePlate)
+                        .candidates(match.candidates())
+                        .build();
+            }
+
+            recordOpt = parkingRecordRepository
+                    .findByLicensePlateAndStatus(match.licensePlate(), ParkingStatus.PARKED);
+
+            if (recordOpt.isEmpty()) {
+                // 다른 인스턴스에서 이미 출차 처리된 경우 인덱스 정리
+                licensePlateIndexService.remove(match.licensePlate());
+                return VehicleEntryResponse.builder()
+                        .success(false)
+                        .message("주차 중인 차량을 찾을 수 없습니다: " + licensePlate)
+                        .build();
+            }
+
+            log.info("번호판 근사 매칭으로 출차 - 입력: {}, 매칭: {}", licensePlate, match.licensePlate());
+            licensePlate = match.licensePlate();
         }
 
         ParkingRecord record = recordOpt.get();
         record.setExitTime(LocalDateTime.now());
         record.setStatus(ParkingStatus.EXITED);
         parkingRecordRepository.save(record);
+        licensePlateIndexService.remove(licensePlate);
 
         // Redis 캐시 업데이트
         updateParkingCache();
 
         log.info("출차 처리 완료 - 번호판: {}", licensePlate);
 
+        // 근사 매칭으로 다른 번호판이 출차된 경우 입력값과 함께 보정 사실을 안내
+        String message = licensePlate.equals(inputPlate)
+                ? "출차 처리 완료"
+                : "번호판 보정 후 출차 처리 완료 (입력: " + inputPlate + ")";
+
         return VehicleEntryResponse.builder()
                 .success(true)
-                .message("출차 처리 완료")
+                .message(message)
                 .licensePlate(licensePlate)
                 .entryTime(record.getEntryTime())
                 .exitTime(record.getExitTime())
@@ -126,6 +159,8 @@ public class ParkingService {
 
     /**
      * 실시간 주차 현황 조회 (Redis 캐시 우선)
+     * 캐시 미스 시 조회한 값을 공유 캐시에 기록하므로 복제본이 아닌 주 서버에서 조회
+     * (복제 지연된 값이 입/출차 시 갱신된 값을 덮어쓰지 않도록 readOnly 트랜잭션 미적용)
      */
     public ParkingStatusResponse getParkingStatus() {
         Long occupiedCount = redisService.getOccupiedCount();
@@ -150,17 +185,19 @@ public class ParkingService {
     /**
      * 차량 출입 기록 조회
      */
-    public List<ParkingRecord> getParkingHistory(String licensePlate) {
+    @Transactional(readOnly = true)
+    public List<ParkingRecordSummary> getParkingHistory(String licensePlate) {
         if (licensePlate != null && !licensePlate.isEmpty()) {
             return parkingRecordRepository.findByLicensePlateOrderByEntryTimeDesc(licensePlate);
         }
-        return parkingRecordRepository.findAll();
+        return parkingRecordRepository.findAllProjectedBy();
     }
 
     /**
      * 현재 주차 중인 차량 목록
      */
-    public List<ParkingRecord> getCurrentlyParkedVehicles() {
+    @Transactional(readOnly = true)
+    public List<ParkingRecordSummary> getCurrentlyParkedVehicles() {
         return parkingRecordRepository.findByStatus(ParkingStatus.PARKED);
     }
 
@@ -0,0 +1,202 @@
+package com.example.smartparkingapi.parking.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 번호판 근사 검색용 BK-트리 (가중치 편집 거리 기반)
+ * - OCR이 자주 혼동하는 숫자 쌍(1↔7, 0↔8 등)의 치환은 일반 치환보다 낮은 비용
+ * - 공백 등 구분자는 비교에서 제외 ("157 4895" == "1574895")
+ * 스레드 안전하지 않으므로 호출 측에서 동기화 필요
+ */
+class PlateBkTree {
+
+    static final int CONFUSABLE_COST = 1;   // 혼동 숫자 치환
+    static final int EDIT_COST = 2;         // 일반 치환/삽입/삭제
+
+    // OCR 혼동 숫자 쌍
+    private static final String[] CONFUSABLE_PAIRS = {
+            "08", "06", "09", "17", "14", "27", "38", "56", "58", "68", "89"
+    };
+    private static final boolean[][] CONFUSABLE = new boolean[10][10];
+
+    static {
+        for (String pair : CONFUSABLE_PAIRS) {
+            int a = pair.charAt(0) - '0';
+            int b = pair.charAt(1) - '0';
+            CONFUSABLE[a][b] = true;
+            CONFUSABLE[b][a] = true;
+        }
+    }
+
+    record Match(String licensePlate, int distance) {
+    }
+
+    private static class Node {
+        private final String key;            // 정규화된 번호판
+        private String licensePlate;         // 원본 번호판
+        private boolean active = true;       // 출차 시 false (트리 재구성 전까지 유지)
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String key, String licensePlate) {
+            this.key = key;
+            this.licensePlate = licensePlate;
+        }
+    }
+
+    private Node root;
+    private int activeCount;
+    private int inactiveCount;
+
+    /**
+     * 번호판 추가 (이미 있으면 다시 활성화)
+     */
+    void add(String licensePlate) {
+        String key = normalize(licensePlate);
+        if (key.isEmpty()) {
+            return;
+        }
+        if (root == null) {
+            root = new Node(key, licensePlate);
+            activeCount++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                node.licensePlate = licensePlate;
+                if (!node.active) {
+                    node.active = true;
+                    activeCount++;
+                    inactiveCount--;
+                }
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(key, licensePlate));
+                activeCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * 번호판 제거 (노드는 비활성화만 하고 검색 결과에서 제외)
+     */
+    void remove(String licensePlate) {
+        String key = normalize(licensePlate);
+        Node node = root;
+        while (node != null) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                if (node.active) {
+                    node.active = false;
+                    activeCount--;
+                    inactiveCount++;
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * maxDistance 이내의 번호판을 거리 오름차순으로 반환
+     */
+    List<Match> search(String licensePlate, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        String key = normalize(licensePlate);
+        if (root == null || key.isEmpty()) {
+            return matches;
+        }
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int distance = distance(key, node.key);
+            if (node.active && distance <= maxDistance) {
+                matches.add(new Match(node.licensePlate, distance));
+            }
+            // 삼각 부등식: |d(q, n) - d(n, c)| <= d(q, c) 이므로 범위 밖 자식은 탐색 불필요
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    stack.push(child.getValue());
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(Match::distance));
+        return matches;
+    }
+
+    int size() {
+        return activeCount;
+    }
+
+    int inactiveSize() {
+        return inactiveCount;
+    }
+
+    /**
+     * 비교용 정규화 (영숫자/한글 외 문자 제거)
+     */
+    static String normalize(String licensePlate) {
+        if (licensePlate == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(licensePlate.length());
+        for (int i = 0; i < licensePlate.length(); i++) {
+            char c = licensePlate.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 가중치 편집 거리 (혼동 숫자 치환 1, 그 외 치환/삽입/삭제 2)
+     * 치환 비용이 문자 간 거리(metric)를 이루므로 전체 거리도 삼각 부등식을 만족함
+     */
+    static int distance(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j * EDIT_COST;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i * EDIT_COST;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = prev[j - 1] + substitutionCost(a.charAt(i - 1), b.charAt(j - 1));
+                int deletion = prev[j] + EDIT_COST;
+                int insertion = curr[j - 1] + EDIT_COST;
+                curr[j] = Math.min(substitution, Math.min(deletion, insertion));
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[b.length()];
+    }
+
+    private static int substitutionCost(char a, char b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a >= '0' && a <= '9' && b >= '0' && b <= '9' && CONFUSABLE[a - '0'][b - '0']) {
+            return CONFUSABLE_COST;
+        }
+        return EDIT_COST;
+    }
+}
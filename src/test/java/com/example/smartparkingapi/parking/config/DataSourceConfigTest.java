@@ -0,0 +1,132 @@
+package com.example.smartparkingapi.parking.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataSourceConfigTest {
+
+    private static final String JDBC_URL = "jdbc:sqlserver://localhost:1433;database=sqldb-parking";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourcePropertiesConfig.class, DataSourceConfig.class)
+            .withPropertyValues("spring.datasource.url=" + JDBC_URL, "spring.datasource.username=parkingadmin");
+
+    private DataSource primary;
+    private DataSource replica;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+
+    @Configuration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class DataSourcePropertiesConfig {
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() throws SQLException {
+        DataSource routing = new DataSourceConfig().dataSource(primary, provider(replica));
+
+        runQuery(routing, true);
+
+        verify(replicaConnection).createStatement();
+        verify(primaryConnection, never()).createStatement();
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() throws SQLException {
+        DataSource routing = new DataSourceConfig().dataSource(primary, provider(replica));
+
+        runQuery(routing, false);
+
+        verify(primaryConnection).createStatement();
+        verify(replicaConnection, never()).createStatement();
+    }
+
+    @Test
+    void readOnlyTransactionUsesPrimaryWithoutReplica() throws SQLException {
+        DataSource routing = new DataSourceConfig().dataSource(primary, provider(null));
+
+        runQuery(routing, true);
+
+        verify(primaryConnection).createStatement();
+    }
+
+    @Test
+    void startsWithoutReplicaUrl() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean("readDataSource");
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        });
+    }
+
+    @Test
+    void replicaSharesPrimaryPoolSettingsUnlessOverridden() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.datasource.hikari.maximum-pool-size=7",
+                        "spring.datasource.hikari.connection-timeout=15000",
+                        "parking.datasource.replica.jdbc-url=" + JDBC_URL + ";applicationIntent=ReadOnly",
+                        "parking.datasource.replica.maximum-pool-size=3")
+                .run(context -> {
+                    HikariDataSource readDataSource = context.getBean("readDataSource", HikariDataSource.class);
+
+                    assertThat(readDataSource.getJdbcUrl()).endsWith("applicationIntent=ReadOnly");
+                    assertThat(readDataSource.getUsername()).isEqualTo("parkingadmin");
+                    assertThat(readDataSource.getConnectionTimeout()).isEqualTo(15000);
+                    assertThat(readDataSource.getMaximumPoolSize()).isEqualTo(3);
+                    assertThat(readDataSource.isReadOnly()).isTrue();
+                });
+    }
+
+    private static ObjectProvider<DataSource> provider(DataSource dataSource) {
+        StaticListableBeanFactory beanFactory = dataSource != null
+                ? new StaticListableBeanFactory(Map.of("readDataSource", dataSource))
+                : new StaticListableBeanFactory();
+        return beanFactory.getBeanProvider(DataSource.class);
+    }
+
+    private static void runQuery(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                // 실제 쿼리 시점에 대상 커넥션이 결정됨
+                DataSourceUtils.getConnection(dataSource).createStatement();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.smartparkingapi.parking.service;
+
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobItemProperties;
+import com.example.smartparkingapi.parking.entity.ParkingRecord.ParkingStatus;
+import com.example.smartparkingapi.parking.repository.ParkingRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlobRetentionServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.now();
+    private static final OffsetDateTime RETENTION_CUTOFF = NOW.minusDays(30);
+    private static final OffsetDateTime ORPHAN_CUTOFF = NOW.minusHours(24);
+
+    private BlobStorageService blobStorageService;
+    private ParkingRecordRepository parkingRecordRepository;
+    private BlobRetentionService blobRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        blobStorageService = mock(BlobStorageService.class);
+        parkingRecordRepository = mock(ParkingRecordRepository.class);
+
+        blobRetentionService = new BlobRetentionService(blobStorageService, parkingRecordRepository);
+        ReflectionTestUtils.setField(blobRetentionService, "retentionDays", 30L);
+        ReflectionTestUtils.setField(blobRetentionService, "orphanGraceHours", 24L);
+        ReflectionTestUtils.setField(blobRetentionService, "maxBatchesPerSecond", 1000.0);
+
+        // 기록의 URL 호스트가 현재 연결 문자열과 달라도 Blob 이름으로 비교해야 함
+        when(parkingRecordRepository.findImageUrlsByStatus(ParkingStatus.PARKED))
+                .thenReturn(List.of("https://cdn.example.com/cctv-images/parked-old.jpg"));
+        when(parkingRecordRepository.findImageUrlsByEntryTimeAfter(any()))
+                .thenReturn(List.of("http://127.0.0.1:10000/devstoreaccount1/cctv-images/referenced.jpg"));
+        when(blobStorageService.listImages()).thenReturn(List.of(
+                blob("orphan.jpg", NOW.minusDays(2)),
+                blob("referenced.jpg", NOW.minusDays(2)),
+                blob("expired.jpg", NOW.minusDays(40)),
+                blob("parked-old.jpg", NOW.minusDays(40)),
+                blob("recent.jpg", NOW.minusHours(1))));
+    }
+
+    @Test
+    void deletesOrphanPastGracePeriod() {
+        assertThat(BlobRetentionService.shouldDelete(NOW.minusDays(2), false, false, RETENTION_CUTOFF, ORPHAN_CUTOFF)).isTrue();
+    }
+
+    @Test
+    void deletesExpiredImageOfExitedVehicle() {
+        assertThat(BlobRetentionService.shouldDelete(NOW.minusDays(40), true, false, RETENTION_CUTOFF, ORPHAN_CUTOFF)).isTrue();
+    }
+
+    @Test
+    void keepsExpiredImageOfParkedVehicle() {
+        assertThat(BlobRetentionService.shouldDelete(NOW.minusDays(40), true, true, RETENTION_CUTOFF, ORPHAN_CUTOFF)).isFalse();
+        assertThat(BlobRetentionService.shouldDelete(NOW.minusDays(40), false, true, RETENTION_CUTOFF, ORPHAN_CUTOFF)).isFalse();
+    }
+
+    @Test
+    void keepsRecentImages() {
+        assertThat(BlobRetentionService.shouldDelete(NOW.minusHours(1), false, false, RETENTION_CUTOFF, ORPHAN_CUTOFF)).isFalse();
+        assertThat(BlobRetentionService.shouldDelete(null, false, false, RETENTION_CUTOFF, ORPHAN_CUTOFF)).isFalse();
+    }
+
+    @Test
+    void keepsReferencedImageWithinRetention() {
+        assertThat(BlobRetentionService.shouldDelete(NOW.minusDays(2), true, false, RETENTION_CUTOFF, ORPHAN_CUTOFF)).isFalse();
+    }
+
+    @Test
+    void dryRunDeletesNothing() {
+        ReflectionTestUtils.setField(blobRetentionService, "dryRun", true);
+
+        blobRetentionService.sweep();
+
+        verify(blobStorageService, never()).deleteImages(anyList());
+    }
+
+    @Test
+    void deletesOnlyOrphanAndExpiredImagesByBlobName() {
+        ReflectionTestUtils.setField(blobRetentionService, "dryRun", false);
+
+        blobRetentionService.sweep();
+
+        verify(blobStorageService).deleteImages(List.of("orphan.jpg", "expired.jpg"));
+    }
+
+    @Test
+    void nonPositiveRateLimitDisablesThrottling() {
+        ReflectionTestUtils.setField(blobRetentionService, "dryRun", false);
+        ReflectionTestUtils.setField(blobRetentionService, "maxBatchesPerSecond", 0.0);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> blobRetentionService.sweep());
+
+        verify(blobStorageService).deleteImages(List.of("orphan.jpg", "expired.jpg"));
+    }
+
+    private static BlobItem blob(String name, OffsetDateTime lastModified) {
+        return new BlobItem()
+                .setName(name)
+                .setProperties(new BlobItemProperties().setLastModified(lastModified));
+    }
+}
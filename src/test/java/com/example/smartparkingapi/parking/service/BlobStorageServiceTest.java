@@ -0,0 +1,100 @@
+package com.example.smartparkingapi.parking.service;
+
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.Context;
+import com.azure.storage.blob.batch.BlobBatch;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlobStorageServiceTest {
+
+    private BlobBatchClient batchClient;
+    private BlobBatch batch;
+    private BlobStorageService blobStorageService;
+
+    @BeforeEach
+    void setUp() {
+        batchClient = mock(BlobBatchClient.class);
+        batch = mock(BlobBatch.class);
+        when(batchClient.getBlobBatch()).thenReturn(batch);
+
+        blobStorageService = new BlobStorageService();
+        ReflectionTestUtils.setField(blobStorageService, "containerName", "cctv-images");
+        ReflectionTestUtils.setField(blobStorageService, "batchClient", batchClient);
+    }
+
+    @Test
+    void countsAcceptedAndMissingBlobsAsDeleted() {
+        Response<Void> accepted = response(202);
+        Response<Void> missing = response(404);
+        Response<Void> failed = response(500);
+        when(batch.deleteBlob("cctv-images", "a.jpg")).thenReturn(accepted);
+        when(batch.deleteBlob("cctv-images", "b.jpg")).thenReturn(missing);
+        when(batch.deleteBlob("cctv-images", "c.jpg")).thenReturn(failed);
+
+        int deleted = blobStorageService.deleteImages(List.of("a.jpg", "b.jpg", "c.jpg"));
+
+        assertThat(deleted).isEqualTo(2);
+        verify(batchClient).submitBatchWithResponse(batch, false, null, Context.NONE);
+    }
+
+    @Test
+    void skipsEmptyBatch() {
+        assertThat(blobStorageService.deleteImages(List.of())).isZero();
+        verify(batchClient, never()).submitBatchWithResponse(any(), anyBoolean(), any(), any());
+    }
+
+    @Test
+    void rejectsBatchLargerThanLimit() {
+        List<String> blobNames = Collections.nCopies(BlobStorageService.MAX_BATCH_SIZE + 1, "a.jpg");
+
+        assertThatThrownBy(() -> blobStorageService.deleteImages(blobNames))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(batchClient, never()).submitBatchWithResponse(any(), anyBoolean(), any(), any());
+    }
+
+    @Test
+    void extractsBlobNameRegardlessOfHost() {
+        assertThat(BlobStorageService.extractBlobName("https://account.blob.core.windows.net/cctv-images/a.jpg"))
+                .isEqualTo("a.jpg");
+        assertThat(BlobStorageService.extractBlobName("http://127.0.0.1:10000/devstoreaccount1/cctv-images/a.jpg?sv=2023"))
+                .isEqualTo("a.jpg");
+        assertThat(BlobStorageService.extractBlobName("https://cdn.example.com/cctv-images/a.jpg"))
+                .isEqualTo("a.jpg");
+    }
+
+    @Test
+    void extractsDecodedBlobName() {
+        // 업로드 시 저장되는 URL은 Blob 이름을 인코딩함 ("입차 사진.jpg")
+        assertThat(BlobStorageService.extractBlobName(
+                "https://account.blob.core.windows.net/cctv-images/%EC%9E%85%EC%B0%A8%20%EC%82%AC%EC%A7%84.jpg"))
+                .isEqualTo("입차 사진.jpg");
+    }
+
+    @Test
+    void extractsFullVirtualDirectoryBlobName() {
+        assertThat(BlobStorageService.extractBlobName("https://account.blob.core.windows.net/cctv-images/2024/10/a.jpg"))
+                .isEqualTo("2024/10/a.jpg");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Response<Void> response(int statusCode) {
+        Response<Void> response = mock(Response.class);
+        when(response.getStatusCode()).thenReturn(statusCode);
+        return response;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.smartparkingapi.parking.service;
+
+import com.example.smartparkingapi.parking.entity.ParkingRecord.ParkingStatus;
+import com.example.smartparkingapi.parking.repository.ParkingRecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LicensePlateIndexServiceTest {
+
+    private ParkingRecordRepository parkingRecordRepository;
+    private LicensePlateIndexService licensePlateIndexService;
+
+    @BeforeEach
+    void setUp() {
+        parkingRecordRepository = mock(ParkingRecordRepository.class);
+        when(parkingRecordRepository.findLicensePlatesByStatus(ParkingStatus.PARKED))
+                .thenReturn(List.of("157 4895", "157 4896", "321 0000"));
+
+        licensePlateIndexService = new LicensePlateIndexService(parkingRecordRepository);
+        ReflectionTestUtils.setField(licensePlateIndexService, "maxDistance", 2);
+        licensePlateIndexService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void resolvesUniqueClosestPlate() {
+        LicensePlateIndexService.PlateMatchResult result = licensePlateIndexService.findClosest("1571 4895");
+
+        assertThat(result.isResolved()).isTrue();
+        assertThat(result.licensePlate()).isEqualTo("157 4895");
+    }
+
+    @Test
+    void returnsCandidatesWhenClosestPlatesTie() {
+        // 7→5, 7→6 모두 일반 치환(거리 2)으로 동률
+        LicensePlateIndexService.PlateMatchResult result = licensePlateIndexService.findClosest("157 4897");
+
+        assertThat(result.isResolved()).isFalse();
+        assertThat(result.candidates()).containsExactlyInAnyOrder("157 4895", "157 4896");
+    }
+
+    @Test
+    void returnsNothingWhenNoPlateIsWithinThreshold() {
+        LicensePlateIndexService.PlateMatchResult result = licensePlateIndexService.findClosest("999 1234");
+
+        assertThat(result.isResolved()).isFalse();
+        assertThat(result.candidates()).isEmpty();
+    }
+
+    @Test
+    void appliesUpdatesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        licensePlateIndexService.add("555 1234");
+        assertThat(licensePlateIndexService.findClosest("555 1234").isResolved()).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(licensePlateIndexService.findClosest("555 1234").licensePlate()).isEqualTo("555 1234");
+    }
+
+    @Test
+    void discardsUpdatesOfRolledBackTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        licensePlateIndexService.add("555 1234");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(licensePlateIndexService.findClosest("555 1234").isResolved()).isFalse();
+    }
+
+    @Test
+    void rebuildKeepsUpdatesMadeWhileQuerying() {
+        when(parkingRecordRepository.findLicensePlatesByStatus(ParkingStatus.PARKED)).thenAnswer(invocation -> {
+            // DB 조회 이후 커밋된 입/출차
+            licensePlateIndexService.add("555 1234");
+            licensePlateIndexService.remove("321 0000");
+            return List.of("157 4895", "321 0000");
+        });
+
+        licensePlateIndexService.rebuild();
+
+        assertThat(licensePlateIndexService.findClosest("555 1234").licensePlate()).isEqualTo("555 1234");
+        assertThat(licensePlateIndexService.findClosest("321 0000").candidates()).isEmpty();
+        assertThat(licensePlateIndexService.findClosest("157 4895").licensePlate()).isEqualTo("157 4895");
+    }
+}
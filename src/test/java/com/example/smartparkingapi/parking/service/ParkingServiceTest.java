@@ -0,0 +1,112 @@
+package com.example.smartparkingapi.parking.service;
+
+import com.example.smartparkingapi.parking.dto.VehicleEntryResponse;
+import com.example.smartparkingapi.parking.entity.ParkingRecord;
+import com.example.smartparkingapi.parking.entity.ParkingRecord.ParkingStatus;
+import com.example.smartparkingapi.parking.repository.ParkingRecordRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParkingServiceTest {
+
+    @Mock
+    private BlobStorageService blobStorageService;
+
+    @Mock
+    private ComputerVisionService computerVisionService;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private LicensePlateIndexService licensePlateIndexService;
+
+    @Mock
+    private ParkingRecordRepository parkingRecordRepository;
+
+    @InjectMocks
+    private ParkingService parkingService;
+
+    @Test
+    void exitsExactPlateWithoutFuzzyLookup() {
+        ParkingRecord record = parkedRecord("157 4895");
+        when(parkingRecordRepository.findByLicensePlateAndStatus("157 4895", ParkingStatus.PARKED))
+                .thenReturn(Optional.of(record));
+
+        VehicleEntryResponse response = parkingService.processVehicleExit("157 4895");
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getMessage()).isEqualTo("출차 처리 완료");
+        assertThat(record.getStatus()).isEqualTo(ParkingStatus.EXITED);
+        verify(licensePlateIndexService, never()).findClosest(anyString());
+        verify(licensePlateIndexService).remove("157 4895");
+    }
+
+    @Test
+    void exitsClosestPlateWhenExactLookupMisses() {
+        ParkingRecord record = parkedRecord("157 4895");
+        when(parkingRecordRepository.findByLicensePlateAndStatus("1571 4895", ParkingStatus.PARKED))
+                .thenReturn(Optional.empty());
+        when(licensePlateIndexService.findClosest("1571 4895"))
+                .thenReturn(new LicensePlateIndexService.PlateMatchResult("157 4895", List.of("157 4895")));
+        when(parkingRecordRepository.findByLicensePlateAndStatus("157 4895", ParkingStatus.PARKED))
+                .thenReturn(Optional.of(record));
+
+        VehicleEntryResponse response = parkingService.processVehicleExit("1571 4895");
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getLicensePlate()).isEqualTo("157 4895");
+        assertThat(response.getMessage()).isEqualTo("번호판 보정 후 출차 처리 완료 (입력: 1571 4895)");
+        assertThat(record.getStatus()).isEqualTo(ParkingStatus.EXITED);
+        verify(parkingRecordRepository).save(record);
+        verify(licensePlateIndexService).remove("157 4895");
+    }
+
+    @Test
+    void returnsCandidatesWhenFuzzyLookupIsAmbiguous() {
+        when(licensePlateIndexService.findClosest("157 4897"))
+                .thenReturn(new LicensePlateIndexService.PlateMatchResult(null, List.of("157 4895", "157 4896")));
+
+        VehicleEntryResponse response = parkingService.processVehicleExit("157 4897");
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getCandidates()).containsExactly("157 4895", "157 4896");
+        verify(parkingRecordRepository, never()).save(any());
+    }
+
+    @Test
+    void removesIndexedPlateWhenRecordAlreadyExited() {
+        when(licensePlateIndexService.findClosest("1571 4895"))
+                .thenReturn(new LicensePlateIndexService.PlateMatchResult("157 4895", List.of("157 4895")));
+
+        VehicleEntryResponse response = parkingService.processVehicleExit("1571 4895");
+
+        assertThat(response.isSuccess()).isFalse();
+        verify(licensePlateIndexService).remove("157 4895");
+        verify(parkingRecordRepository, never()).save(any());
+    }
+
+    private static ParkingRecord parkedRecord(String licensePlate) {
+        return ParkingRecord.builder()
+                .id(1L)
+                .licensePlate(licensePlate)
+                .entryTime(LocalDateTime.now().minusHours(1))
+                .status(ParkingStatus.PARKED)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.smartparkingapi.parking.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlateBkTreeTest {
+
+    @Test
+    void distanceIgnoresSeparatorsAndWeightsConfusableDigits() {
+        assertEquals(0, PlateBkTree.distance(PlateBkTree.normalize("157 4895"), PlateBkTree.normalize("1574895")));
+        assertEquals(PlateBkTree.CONFUSABLE_COST, PlateBkTree.distance("1574895", "7574895"));
+        assertEquals(PlateBkTree.EDIT_COST, PlateBkTree.distance("1574895", "2574895"));
+        assertEquals(PlateBkTree.EDIT_COST, PlateBkTree.distance("15714895", "1574895"));
+    }
+
+    @Test
+    void searchReturnsClosestPlatesFirst() {
+        PlateBkTree tree = new PlateBkTree();
+        tree.add("157 4895");
+        tree.add("157 4896");
+        tree.add("321 0000");
+
+        List<PlateBkTree.Match> matches = tree.search("1571 4895", 2);
+
+        assertEquals(1, matches.size());
+        assertEquals("157 4895", matches.get(0).licensePlate());
+
+        matches = tree.search("757 4895", 3);
+        assertEquals("157 4895", matches.get(0).licensePlate());
+        assertEquals(PlateBkTree.CONFUSABLE_COST, matches.get(0).distance());
+    }
+
+    @Test
+    void removedPlatesAreExcludedUntilAddedAgain() {
+        PlateBkTree tree = new PlateBkTree();
+        tree.add("157 4895");
+        tree.add("123 4567");
+
+        tree.remove("157 4895");
+        assertTrue(tree.search("157 4895", 0).isEmpty());
+        assertEquals(1, tree.size());
+        assertEquals(1, tree.inactiveSize());
+
+        tree.add("157 4895");
+        assertEquals(1, tree.search("157 4895", 0).size());
+        assertEquals(2, tree.size());
+    }
+}